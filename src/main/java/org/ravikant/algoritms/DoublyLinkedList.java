@@ -55,6 +55,29 @@ public class DoublyLinkedList<E> {
         node.prev = tailPrev;
     }
 
+    /**
+     * Helper method to add a node at the start of the list.
+     *
+     * @param node Node to be added.
+     */
+    public void addNodeAtFirst(DoublyLinkedListNode<E> node) {
+        addNodeAfter(dummyHead, node);
+    }
+
+    /**
+     * Helper method to add a node right after another node of the list.
+     *
+     * @param anchor Node of the list after which the new node is added.
+     * @param node   Node to be added.
+     */
+    public void addNodeAfter(DoublyLinkedListNode<E> anchor, DoublyLinkedListNode<E> node) {
+        DoublyLinkedListNode<E> anchorNext = anchor.next;
+        anchor.next = node;
+        node.prev = anchor;
+        node.next = anchorNext;
+        anchorNext.prev = node;
+    }
+
     /**
      * Helper method to add an element at the end.
      *
@@ -86,6 +109,16 @@ public class DoublyLinkedList<E> {
         return dummyTail.prev;
     }
 
+    /**
+     * Returns the node following the given node of the list.
+     *
+     * @param node Node of the list.
+     * @return The next node, or null if the given node is the last one.
+     */
+    public DoublyLinkedListNode<E> getNextNode(DoublyLinkedListNode<E> node) {
+        return node.next == dummyTail ? null : node.next;
+    }
+
     public boolean isEmpty() {
         return dummyHead.next == dummyTail;
     }
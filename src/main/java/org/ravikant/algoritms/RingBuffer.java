@@ -0,0 +1,127 @@
+package org.ravikant.algoritms;
+
+import org.ravikant.algoritms.exceptions.InvalidElementException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue backed by a fixed size array. Any number of threads can offer and poll concurrently
+ * without taking a lock; when the buffer is full {@link #offer(Object)} fails fast instead of blocking the caller.
+ * <p>
+ * Every slot carries a sequence number which tells producers and consumers whether the slot is ready to be written or
+ * read for the current lap around the array, so a slot is never handed to two threads at once.
+ *
+ * @param <E> Type of element stored in the buffer.
+ */
+public class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    // Position of the next slot to be read.
+    private final AtomicLong head;
+    // Position of the next slot to be written.
+    private final AtomicLong tail;
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Constructs an empty buffer. The capacity is rounded up to the next power of two so that slot lookup is a mask
+     * instead of a modulo. At least two slots are allocated: with a single slot, the sequence marking it as written
+     * for one lap would be the same as the one marking it free for the next lap.
+     *
+     * @param capacity Minimum number of elements the buffer should be able to hold, at most {@code 2^30}.
+     */
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        int size = capacity <= MIN_CAPACITY ? MIN_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Adds an element at the end of the buffer if there is room for it.
+     *
+     * @param element Element to be added.
+     * @return true if the element was added, false if the buffer is full.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new InvalidElementException();
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                // Slot is free for this lap, try to claim it.
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds an element from the previous lap, buffer is full.
+                return false;
+            } else {
+                // Another producer claimed this slot, catch up.
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the buffer.
+     *
+     * @return The removed element, or null if the buffer is empty.
+     */
+    public E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    // Hand the slot back to producers for the next lap.
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * @return Maximum number of elements the buffer can hold.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns whether the buffer has no elements. Under concurrent use this is only a snapshot.
+     *
+     * @return true if there are no elements in the buffer.
+     */
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+}
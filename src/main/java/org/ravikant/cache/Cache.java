@@ -2,6 +2,8 @@ package org.ravikant.cache;
 
 import org.ravikant.cache.exceptions.NotFoundException;
 import org.ravikant.cache.exceptions.StorageFullException;
+import org.ravikant.cache.listeners.RemovalCause;
+import org.ravikant.cache.listeners.RemovalNotifier;
 import org.ravikant.cache.policies.EvictionPolicy;
 import org.ravikant.cache.storage.Storage;
 
@@ -10,31 +12,58 @@ import java.util.Objects;
 public class Cache<K, V> {
     private final Storage<K, V> storage;
     private EvictionPolicy<K> evictionPolicy;
+    private RemovalNotifier<K, V> removalNotifier;
+    private boolean consoleLoggingEnabled = true;
 
     public Cache(EvictionPolicy<K> evictionPolicy, Storage<K, V> storage) {
         this.storage = storage;
         this.evictionPolicy = evictionPolicy;
     }
 
+    public Cache(EvictionPolicy<K> evictionPolicy, Storage<K, V> storage, RemovalNotifier<K, V> removalNotifier) {
+        this(evictionPolicy, storage);
+        this.removalNotifier = removalNotifier;
+    }
+
     public Cache(Storage<K, V> storage) {
         this.storage = storage;
     }
 
-    public void put(K key, V value) {
+    public Cache(Storage<K, V> storage, RemovalNotifier<K, V> removalNotifier) {
+        this(storage);
+        this.removalNotifier = removalNotifier;
+    }
+
+    /**
+     * Turns the console messages printed on misses and evictions on or off. They are on by default.
+     *
+     * @param consoleLoggingEnabled whether misses and evictions are printed to {@link System#out}.
+     */
+    public void setConsoleLoggingEnabled(boolean consoleLoggingEnabled) {
+        this.consoleLoggingEnabled = consoleLoggingEnabled;
+    }
 
+    public void put(K key, V value) {
         try {
-            this.storage.add(key, value);
+            V oldValue = this.storage.add(key, value);
             if (Objects.nonNull(evictionPolicy)) {
                 this.evictionPolicy.keyAccessed(key);
             }
+            // Putting the same value again replaces nothing, and the value must not be released while still cached.
+            if (Objects.nonNull(removalNotifier) && Objects.nonNull(oldValue) && oldValue != value) {
+                removalNotifier.notify(key, oldValue, RemovalCause.REPLACED);
+            }
         } catch (StorageFullException exception) {
-            System.out.println("Storage full. Attempting to evict.");
+            log("Storage full. Attempting to evict.");
             K keyToRemove = evictionPolicy.evictKey();
             if (keyToRemove == null) {
                 throw new RuntimeException("Unexpected State. Storage full and no key to evict.");
             }
-            this.storage.remove(keyToRemove);
-            System.out.println("Creating space by evicting item..." + keyToRemove);
+            V evictedValue = this.storage.remove(keyToRemove);
+            if (Objects.nonNull(removalNotifier) && Objects.nonNull(evictedValue)) {
+                removalNotifier.notify(keyToRemove, evictedValue, RemovalCause.EVICTED);
+            }
+            log("Creating space by evicting item..." + keyToRemove);
             put(key, value);
         }
     }
@@ -47,10 +76,48 @@ public class Cache<K, V> {
             }
             return value;
         } catch (NotFoundException notFoundException) {
-            System.out.println("Tried to access non-existing key.");
+            log("Tried to access non-existing key.");
             return null;
         }
     }
 
-}
+    public void remove(K key) {
+        if (!this.storage.containsKey(key)) {
+            return;
+        }
+        V value = this.storage.remove(key);
+        if (Objects.nonNull(evictionPolicy)) {
+            this.evictionPolicy.keyRemoved(key);
+        }
+        if (Objects.nonNull(removalNotifier)) {
+            removalNotifier.notify(key, value, RemovalCause.EXPLICIT);
+        }
+    }
 
+    /**
+     * Removes the entry for the key only if it is currently associated with the given value. Unlike a {@link #get}
+     * followed by {@link #remove(Object)}, the check does not count as an access to the key.
+     *
+     * @param key   the key whose entry is to be removed.
+     * @param value the value the key is expected to be associated with.
+     * @return true if the entry was removed.
+     */
+    public boolean remove(K key, V value) {
+        if (!this.storage.remove(key, value)) {
+            return false;
+        }
+        if (Objects.nonNull(evictionPolicy)) {
+            this.evictionPolicy.keyRemoved(key);
+        }
+        if (Objects.nonNull(removalNotifier)) {
+            removalNotifier.notify(key, value, RemovalCause.EXPLICIT);
+        }
+        return true;
+    }
+
+    private void log(String message) {
+        if (consoleLoggingEnabled) {
+            System.out.println(message);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.ravikant.cache.async;
+
+import org.ravikant.cache.Cache;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A cache which stores {@link CompletableFuture}s of values on top of a regular {@link Cache}, so that a miss never has
+ * to block the caller while the value is loaded.
+ * <p>
+ * The first caller for a missing key starts the load and inserts its future right away; every concurrent caller for
+ * the same key gets that same in-flight future instead of starting another load. Futures which fail or complete with
+ * {@code null} are removed from the cache automatically once they complete. Loads run on the configured
+ * {@link Executor}.
+ * <p>
+ * The underlying {@link Cache} is not thread safe, so every access to it is guarded by a lock. Only the cheap lookup
+ * and insertion happen under the lock, never the load itself.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+public class AsyncCache<K, V> {
+
+    private final Cache<K, CompletableFuture<V>> cache;
+    private final Executor executor;
+    private final Object lock;
+
+    /**
+     * Constructs a new {@link AsyncCache} on top of the given cache.
+     *
+     * @param cache    The cache which holds the futures. Its eviction policy and storage apply as usual.
+     * @param executor The executor on which loads are run.
+     */
+    public AsyncCache(Cache<K, CompletableFuture<V>> cache, Executor executor) {
+        this.cache = cache;
+        this.executor = executor;
+        this.lock = new Object();
+    }
+
+    /**
+     * Returns the future for the given key if the cache has one.
+     *
+     * @param key The key whose future is to be returned.
+     * @return The cached future, which may still be in flight, or null if the key is not present.
+     */
+    public CompletableFuture<V> getIfPresent(K key) {
+        synchronized (lock) {
+            return cache.get(key);
+        }
+    }
+
+    /**
+     * Returns the future for the given key, computing the value on the executor with {@code mappingFunction} if the
+     * key is not present.
+     *
+     * @param key             The key whose future is to be returned.
+     * @param mappingFunction Computes the value of a missing key. It runs on the executor, so it may block.
+     * @return The cached or newly started future.
+     */
+    public CompletableFuture<V> get(K key, Function<? super K, ? extends V> mappingFunction) {
+        return get(key, (k, loadExecutor) ->
+                CompletableFuture.supplyAsync(() -> mappingFunction.apply(k), loadExecutor));
+    }
+
+    /**
+     * Returns the future for the given key, starting an asynchronous load with {@code loader} if the key is not
+     * present.
+     *
+     * @param key    The key whose future is to be returned.
+     * @param loader Starts loading the value of a missing key.
+     * @return The cached or newly started future. If the loader throws, the returned future has failed with that
+     *         exception, except for an {@link Error}, which is rethrown after the entry has been removed.
+     */
+    public CompletableFuture<V> get(K key, AsyncCacheLoader<? super K, V> loader) {
+        CompletableFuture<V> placeholder;
+        synchronized (lock) {
+            CompletableFuture<V> existing = cache.get(key);
+            if (Objects.nonNull(existing)) {
+                return existing;
+            }
+            // Publish a placeholder before calling the loader, so concurrent callers share it and the loader runs
+            // outside the lock.
+            placeholder = new CompletableFuture<>();
+            cache.put(key, placeholder);
+        }
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.asyncLoad(key, executor);
+        } catch (Throwable throwable) {
+            // The placeholder is already visible to other callers, it must never be left incomplete.
+            placeholder.completeExceptionally(throwable);
+            removeIfFailed(key, placeholder);
+            if (throwable instanceof Error) {
+                throw (Error) throwable;
+            }
+            return placeholder;
+        }
+        if (loaded == null) {
+            placeholder.completeExceptionally(new NullPointerException("Loader returned null future for " + key));
+        } else {
+            loaded.whenComplete((value, throwable) -> {
+                if (Objects.nonNull(throwable)) {
+                    placeholder.completeExceptionally(throwable);
+                } else {
+                    placeholder.complete(value);
+                }
+            });
+        }
+        removeIfFailed(key, placeholder);
+        return placeholder;
+    }
+
+    /**
+     * Associates the given future with the key, replacing any existing one. If the future fails or completes with
+     * {@code null}, it is removed again.
+     *
+     * @param key         The key with which the future is to be associated.
+     * @param valueFuture The future of the value.
+     */
+    public void put(K key, CompletableFuture<V> valueFuture) {
+        synchronized (lock) {
+            cache.put(key, valueFuture);
+        }
+        removeIfFailed(key, valueFuture);
+    }
+
+    /**
+     * Removes the future associated with the key, if any. Callers already holding the future are not affected.
+     *
+     * @param key The key whose future is to be removed.
+     */
+    public void remove(K key) {
+        synchronized (lock) {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * Returns a view of this cache which waits for the futures, for callers that need plain values. Both views share
+     * the same entries.
+     *
+     * @return A blocking view of this cache.
+     */
+    public SynchronousView<K, V> synchronous() {
+        return new SynchronousView<>(this);
+    }
+
+    private void removeIfFailed(K key, CompletableFuture<V> future) {
+        future.whenComplete((value, throwable) -> {
+            if (Objects.nonNull(throwable) || value == null) {
+                synchronized (lock) {
+                    // Only remove our own future, the key may have been given a new one meanwhile. The conditional
+                    // remove does not count as an access, so a newer entry keeps its place in the eviction order.
+                    cache.remove(key, future);
+                }
+            }
+        });
+    }
+}
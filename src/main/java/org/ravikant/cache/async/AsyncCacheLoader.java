@@ -0,0 +1,26 @@
+package org.ravikant.cache.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Computes the value of a missing key asynchronously, e.g. by issuing a non-blocking call to a remote store.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+@FunctionalInterface
+public interface AsyncCacheLoader<K, V> {
+
+    /**
+     * Starts loading the value for the given key.
+     * <p>
+     * The returned future may complete with {@code null} or exceptionally, in which case the entry is not kept in the
+     * cache and the next caller triggers a new load.
+     *
+     * @param key      The key whose value should be loaded.
+     * @param executor The cache's executor, which the loader may use for any work it needs to schedule.
+     * @return A future which completes with the loaded value.
+     */
+    CompletableFuture<V> asyncLoad(K key, Executor executor);
+}
@@ -0,0 +1,78 @@
+package org.ravikant.cache.async;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A blocking view of an {@link AsyncCache}. Every method waits for the underlying future to complete, so this should
+ * only be used by callers which are allowed to block.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+public class SynchronousView<K, V> {
+
+    private final AsyncCache<K, V> asyncCache;
+
+    SynchronousView(AsyncCache<K, V> asyncCache) {
+        this.asyncCache = asyncCache;
+    }
+
+    /**
+     * Returns the value for the given key, waiting for it if it is still being loaded.
+     *
+     * @param key The key whose value is to be returned.
+     * @return The value, or null if the key is not present or its load failed or was cancelled.
+     */
+    public V get(K key) {
+        CompletableFuture<V> future = asyncCache.getIfPresent(key);
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the value for the given key, computing it with {@code mappingFunction} if the key is not present.
+     *
+     * @param key             The key whose value is to be returned.
+     * @param mappingFunction Computes the value of a missing key.
+     * @return The cached or computed value.
+     * @throws RuntimeException the exception thrown by {@code mappingFunction}, if the load failed.
+     */
+    public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+        try {
+            return asyncCache.get(key, mappingFunction).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Associates an already computed value with the key.
+     *
+     * @param key   The key with which the value is to be associated.
+     * @param value The value to be stored.
+     */
+    public void put(K key, V value) {
+        asyncCache.put(key, CompletableFuture.completedFuture(value));
+    }
+
+    /**
+     * Removes the entry for the given key, if any.
+     *
+     * @param key The key whose entry is to be removed.
+     */
+    public void remove(K key) {
+        asyncCache.remove(key);
+    }
+}
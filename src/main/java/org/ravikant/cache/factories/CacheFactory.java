@@ -1,12 +1,18 @@
 package org.ravikant.cache.factories;
 
 import org.ravikant.cache.Cache;
+import org.ravikant.cache.async.AsyncCache;
+import org.ravikant.cache.listeners.RemovalCause;
+import org.ravikant.cache.listeners.RemovalListener;
+import org.ravikant.cache.listeners.RemovalNotifier;
 import org.ravikant.cache.policies.EvictionPolicy;
 import org.ravikant.cache.storage.LinkedHashMapBasedStorage;
 import org.ravikant.cache.storage.Storage;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A factory class for creating {@link Cache} instances with various configurations.
@@ -37,6 +43,21 @@ public class CacheFactory<K, V> {
         return new Cache<>(evictionPolicy, storage);
     }
 
+    /**
+     * Constructs a new {@link Cache} instance which reports every removed entry to the given notifier.
+     *
+     * @param evictionPolicy  The policy used to determine when entries in the cache should be evicted.
+     * @param storage         The storage mechanism where cache entries are stored.
+     * @param removalNotifier The notifier which delivers removed entries to a {@link RemovalListener} asynchronously.
+     * @param <K> The type of keys used in the cache.
+     * @param <V> The type of values stored in the cache.
+     * @return A new {@link Cache} instance configured with the specified eviction policy, storage and notifier.
+     */
+    public static <K, V> Cache<K, V> buildCache(EvictionPolicy<K> evictionPolicy, Storage<K, V> storage,
+                                                RemovalNotifier<K, V> removalNotifier) {
+        return new Cache<>(evictionPolicy, storage, removalNotifier);
+    }
+
 
     /**
      * Creates a default {@link Cache} instance with a specified capacity. The cache will use an LRU (Least Recently Used)
@@ -49,5 +70,50 @@ public class CacheFactory<K, V> {
     public static <K, V> Cache<K, V> getDefaultCache(final int capacity) {
         return new Cache<>(new LinkedHashMapBasedStorage<>(capacity));
     }
-}
 
+    /**
+     * Creates a default {@link Cache} instance like {@link #getDefaultCache(int)} which additionally tells the given
+     * listener about every removed entry. The listener is invoked on the {@code executor}, never on the thread calling
+     * the cache.
+     *
+     * @param capacity The maximum number of entries the cache can hold before eviction occurs.
+     * @param listener The listener to be notified of removed entries.
+     * @param executor The executor on which the listener is invoked.
+     * @return A new {@link Cache} instance with an asynchronous removal listener.
+     */
+    public static <K, V> Cache<K, V> getDefaultCache(final int capacity, RemovalListener<K, V> listener,
+                                                     Executor executor) {
+        RemovalNotifier<K, V> notifier = new RemovalNotifier<>(listener, executor);
+        Storage<K, V> storage = new LinkedHashMapBasedStorage<>(capacity,
+                (key, value) -> notifier.notify(key, value, RemovalCause.SIZE));
+        return new Cache<>(storage, notifier);
+    }
+
+    /**
+     * Constructs a new {@link AsyncCache} which keeps its futures in a {@link Cache} with the specified eviction policy
+     * and storage mechanism.
+     *
+     * @param evictionPolicy The policy used to determine when entries in the cache should be evicted.
+     * @param storage        The storage mechanism where the futures of the values are stored.
+     * @param executor       The executor on which values are loaded.
+     * @param <K> The type of keys used in the cache.
+     * @param <V> The type of values stored in the cache.
+     * @return A new {@link AsyncCache} instance.
+     */
+    public static <K, V> AsyncCache<K, V> buildAsyncCache(EvictionPolicy<K> evictionPolicy,
+                                                          Storage<K, CompletableFuture<V>> storage,
+                                                          Executor executor) {
+        return new AsyncCache<>(new Cache<>(evictionPolicy, storage), executor);
+    }
+
+    /**
+     * Creates a default {@link AsyncCache} instance backed by {@link #getDefaultCache(int)}.
+     *
+     * @param capacity The maximum number of entries the cache can hold before eviction occurs.
+     * @param executor The executor on which values are loaded.
+     * @return A new {@link AsyncCache} instance with LRU eviction.
+     */
+    public static <K, V> AsyncCache<K, V> getDefaultAsyncCache(final int capacity, Executor executor) {
+        return new AsyncCache<>(getDefaultCache(capacity), executor);
+    }
+}
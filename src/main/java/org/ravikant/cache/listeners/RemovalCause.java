@@ -0,0 +1,40 @@
+package org.ravikant.cache.listeners;
+
+/**
+ * The reason why an entry was removed from the cache.
+ */
+public enum RemovalCause {
+
+    /**
+     * The entry was removed by the user through {@code Cache.remove}.
+     */
+    EXPLICIT,
+
+    /**
+     * The value of the entry was overwritten by a new {@code Cache.put} for the same key.
+     */
+    REPLACED,
+
+    /**
+     * The entry was chosen as a victim by the cache's {@link org.ravikant.cache.policies.EvictionPolicy}.
+     */
+    EVICTED,
+
+    /**
+     * The entry was dropped by the storage itself because it went over its capacity, e.g.
+     * {@link org.ravikant.cache.storage.LinkedHashMapBasedStorage}.
+     */
+    SIZE,
+
+    /**
+     * The entry outlived its time to live. Reserved for storages which support expiration.
+     */
+    EXPIRED;
+
+    /**
+     * @return true if the entry was removed automatically by the cache rather than by the user.
+     */
+    public boolean wasEvicted() {
+        return this != EXPLICIT && this != REPLACED;
+    }
+}
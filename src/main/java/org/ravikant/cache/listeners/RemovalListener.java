@@ -0,0 +1,22 @@
+package org.ravikant.cache.listeners;
+
+/**
+ * A callback which is told about entries leaving the cache, e.g. to release resources held by the value or to emit
+ * metrics.
+ * <p>
+ * Listeners are invoked by a {@link RemovalNotifier} on its executor, never on the thread calling the cache, so a slow
+ * listener does not add latency to {@code put} or {@code get}.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+@FunctionalInterface
+public interface RemovalListener<K, V> {
+
+    /**
+     * Notifies the listener that an entry was removed.
+     *
+     * @param notification The removed entry and the cause of its removal.
+     */
+    void onRemoval(RemovalNotification<K, V> notification);
+}
@@ -0,0 +1,22 @@
+package org.ravikant.cache.listeners;
+
+import lombok.Getter;
+
+/**
+ * Describes a single entry which was removed from the cache, along with the reason for removal.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+@Getter
+public class RemovalNotification<K, V> {
+    private final K key;
+    private final V value;
+    private final RemovalCause cause;
+
+    public RemovalNotification(K key, V value, RemovalCause cause) {
+        this.key = key;
+        this.value = value;
+        this.cause = cause;
+    }
+}
@@ -0,0 +1,128 @@
+package org.ravikant.cache.listeners;
+
+import org.ravikant.algoritms.RingBuffer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers {@link RemovalNotification}s to a {@link RemovalListener} off the caller's thread.
+ * <p>
+ * The cache only enqueues a notification into a bounded {@link RingBuffer}, which never blocks. A single drain task at
+ * a time is submitted to the configured {@link Executor}; it hands over up to {@code maxBatchSize} notifications to the
+ * listener and re-submits itself if more are waiting. If the listener falls so far behind that the buffer fills up,
+ * new notifications are dropped and counted rather than slowing down the cache.
+ *
+ * @param <K> The type of keys used in the cache.
+ * @param <V> The type of values stored in the cache.
+ */
+public class RemovalNotifier<K, V> {
+
+    public static final int DEFAULT_BUFFER_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    private final RemovalListener<K, V> listener;
+    private final Executor executor;
+    private final RingBuffer<RemovalNotification<K, V>> buffer;
+    private final int maxBatchSize;
+    private final AtomicBoolean drainScheduled;
+    private final AtomicLong droppedCount;
+
+    /**
+     * Constructs a notifier which delivers on the {@link ForkJoinPool#commonPool()} with default buffer and batch sizes.
+     *
+     * @param listener The listener to be notified.
+     */
+    public RemovalNotifier(RemovalListener<K, V> listener) {
+        this(listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a notifier which delivers on the given executor with default buffer and batch sizes.
+     *
+     * @param listener The listener to be notified.
+     * @param executor The executor on which the listener is invoked.
+     */
+    public RemovalNotifier(RemovalListener<K, V> listener, Executor executor) {
+        this(listener, executor, DEFAULT_BUFFER_CAPACITY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a notifier.
+     *
+     * @param listener       The listener to be notified.
+     * @param executor       The executor on which the listener is invoked.
+     * @param bufferCapacity Maximum number of notifications waiting for delivery. Further ones are dropped.
+     * @param maxBatchSize   Maximum number of notifications delivered by one task on the executor.
+     */
+    public RemovalNotifier(RemovalListener<K, V> listener, Executor executor, int bufferCapacity, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.listener = listener;
+        this.executor = executor;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.drainScheduled = new AtomicBoolean(false);
+        this.droppedCount = new AtomicLong();
+    }
+
+    /**
+     * Queues a notification for delivery. This method never blocks and never runs the listener itself.
+     *
+     * @param key   The key of the removed entry.
+     * @param value The value of the removed entry.
+     * @param cause The reason why the entry was removed.
+     */
+    public void notify(K key, V value, RemovalCause cause) {
+        if (!buffer.offer(new RemovalNotification<>(key, value, cause))) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * @return Number of notifications dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException exception) {
+                // Notifications stay buffered, the next one will try to schedule again.
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < maxBatchSize; i++) {
+                RemovalNotification<K, V> notification = buffer.poll();
+                if (notification == null) {
+                    break;
+                }
+                try {
+                    listener.onRemoval(notification);
+                } catch (RuntimeException exception) {
+                    // One failing notification should not stop the delivery of the rest.
+                    System.out.println("Removal listener failed for key " + notification.getKey() + ": " + exception);
+                }
+            }
+        } finally {
+            drainScheduled.set(false);
+        }
+        // Something might have been queued after our last poll but before the flag was cleared.
+        if (!buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -30,5 +30,16 @@ public interface EvictionPolicy<K> {
      *         depending on the implementation.
      */
     K evictKey();
+
+    /**
+     * Notifies the policy that a key was removed from the cache by some other means than {@link #evictKey()}.
+     * <p>
+     * The policy should stop tracking the key so that it is never returned as an eviction victim afterwards. By
+     * default, this does nothing, for policies which can tolerate stale keys.
+     *
+     * @param key The key that was removed.
+     */
+    default void keyRemoved(K key) {
+    }
 }
 
@@ -0,0 +1,203 @@
+package org.ravikant.cache.policies;
+
+
+import org.ravikant.algoritms.DoublyLinkedList;
+import org.ravikant.algoritms.DoublyLinkedListNode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An implementation of the {@link EvictionPolicy} interface using a Least Frequently Used (LFU) eviction strategy.
+ * <p>
+ * Keys are grouped into frequency buckets, kept in a doubly linked list in increasing order of frequency. Each bucket
+ * holds a doubly linked list of its keys in the order in which they reached that frequency. Accessing a key moves it
+ * to the neighbouring bucket and evicting takes the first key of the first bucket, so both are O(1). Ties between keys
+ * of the same frequency are broken by evicting the least recently used one.
+ * <p>
+ * Frequencies saturate at {@code maxFrequency}, so the number of buckets stays small and an entry only needs
+ * pointers to its nodes instead of a counter of its own. To let popularity from the past fade away, all frequencies
+ * are halved once the number of accesses since the last halving reaches {@code agingSamplesPerKey} times the number
+ * of tracked keys, which keeps the cost of aging amortized O(1) per access.
+ *
+ * @param <Key> The type of keys used in the cache.
+ */
+public class LFUEvictionPolicy<Key> implements EvictionPolicy<Key> {
+
+    public static final int DEFAULT_MAX_FREQUENCY = 15;
+    public static final int DEFAULT_AGING_SAMPLES_PER_KEY = 10;
+
+    private final DoublyLinkedList<FrequencyBucket<Key>> buckets;
+    private final Map<Key, Entry<Key>> mapper;
+    private final int maxFrequency;
+    private final int agingSamplesPerKey;
+    private long accessesSinceAging;
+
+    /**
+     * Constructs a new {@link LFUEvictionPolicy} with 4 bit frequencies and default aging.
+     */
+    public LFUEvictionPolicy() {
+        this(DEFAULT_MAX_FREQUENCY, DEFAULT_AGING_SAMPLES_PER_KEY);
+    }
+
+    /**
+     * Constructs a new {@link LFUEvictionPolicy} instance with no keys.
+     *
+     * @param maxFrequency       The frequency at which a key's counter saturates.
+     * @param agingSamplesPerKey Number of accesses per tracked key after which all frequencies are halved.
+     */
+    public LFUEvictionPolicy(int maxFrequency, int agingSamplesPerKey) {
+        if (maxFrequency < 1 || agingSamplesPerKey < 1) {
+            throw new IllegalArgumentException("Max frequency and aging samples per key must be positive.");
+        }
+        this.buckets = new DoublyLinkedList<>();
+        this.mapper = new HashMap<>();
+        this.maxFrequency = maxFrequency;
+        this.agingSamplesPerKey = agingSamplesPerKey;
+    }
+
+    /**
+     * Updates the eviction policy based on key access.
+     * <p>
+     * A new key starts in the bucket of frequency 1. A known key moves to the bucket of the next frequency, or to the
+     * end of its current bucket if its frequency is already saturated.
+     *
+     * @param key The key that was accessed.
+     */
+    @Override
+    public void keyAccessed(Key key) {
+        Entry<Key> entry = mapper.get(key);
+        if (entry == null) {
+            addNewKey(key);
+        } else {
+            incrementFrequency(entry);
+        }
+        if (++accessesSinceAging >= (long) agingSamplesPerKey * mapper.size()) {
+            age();
+        }
+    }
+
+    /**
+     * Determines and returns the least frequently used key that should be evicted from the cache, and stops tracking
+     * it.
+     *
+     * @return The key that should be evicted or null if no key can be evicted.
+     */
+    @Override
+    public Key evictKey() {
+        if (buckets.isEmpty()) {
+            return null;
+        }
+        DoublyLinkedListNode<FrequencyBucket<Key>> firstBucket = buckets.getFirstNode();
+        Key key = firstBucket.getElement().keys.getFirstNode().getElement();
+        keyRemoved(key);
+        return key;
+    }
+
+    /**
+     * Stops tracking a key which was removed from the cache, so that it is not picked for eviction later.
+     *
+     * @param key The key that was removed.
+     */
+    @Override
+    public void keyRemoved(Key key) {
+        Entry<Key> entry = mapper.remove(key);
+        if (entry != null) {
+            detachKey(entry);
+        }
+    }
+
+    private void addNewKey(Key key) {
+        DoublyLinkedListNode<FrequencyBucket<Key>> bucketNode;
+        if (!buckets.isEmpty() && buckets.getFirstNode().getElement().frequency == 1) {
+            bucketNode = buckets.getFirstNode();
+        } else {
+            bucketNode = new DoublyLinkedListNode<>(new FrequencyBucket<>(1));
+            buckets.addNodeAtFirst(bucketNode);
+        }
+        DoublyLinkedListNode<Key> keyNode = bucketNode.getElement().keys.addElementAtLast(key);
+        mapper.put(key, new Entry<>(keyNode, bucketNode));
+    }
+
+    private void incrementFrequency(Entry<Key> entry) {
+        DoublyLinkedListNode<FrequencyBucket<Key>> currentBucket = entry.bucketNode;
+        int frequency = currentBucket.getElement().frequency;
+        if (frequency >= maxFrequency) {
+            // Saturated, only refresh the recency within the bucket.
+            currentBucket.getElement().keys.detachNode(entry.keyNode);
+            currentBucket.getElement().keys.addNodeAtLast(entry.keyNode);
+            return;
+        }
+        DoublyLinkedListNode<FrequencyBucket<Key>> nextBucket = buckets.getNextNode(currentBucket);
+        if (nextBucket == null || nextBucket.getElement().frequency != frequency + 1) {
+            nextBucket = new DoublyLinkedListNode<>(new FrequencyBucket<>(frequency + 1));
+            buckets.addNodeAfter(currentBucket, nextBucket);
+        }
+        detachKey(entry);
+        nextBucket.getElement().keys.addNodeAtLast(entry.keyNode);
+        entry.bucketNode = nextBucket;
+    }
+
+    /**
+     * Detaches the key from its bucket, and the bucket from the list if it became empty.
+     */
+    private void detachKey(Entry<Key> entry) {
+        FrequencyBucket<Key> bucket = entry.bucketNode.getElement();
+        bucket.keys.detachNode(entry.keyNode);
+        if (bucket.keys.isEmpty()) {
+            buckets.detachNode(entry.bucketNode);
+        }
+    }
+
+    /**
+     * Halves the frequency of every key. Halving keeps the order of the buckets, so buckets which end up with the same
+     * frequency are neighbours and get merged, keys of the formerly less frequent one staying first in line for
+     * eviction.
+     */
+    private void age() {
+        accessesSinceAging = 0;
+        if (buckets.isEmpty()) {
+            return;
+        }
+        DoublyLinkedListNode<FrequencyBucket<Key>> previous = null;
+        DoublyLinkedListNode<FrequencyBucket<Key>> current = buckets.getFirstNode();
+        while (current != null) {
+            DoublyLinkedListNode<FrequencyBucket<Key>> next = buckets.getNextNode(current);
+            FrequencyBucket<Key> bucket = current.getElement();
+            bucket.frequency = Math.max(1, bucket.frequency / 2);
+            if (previous != null && previous.getElement().frequency == bucket.frequency) {
+                while (!bucket.keys.isEmpty()) {
+                    DoublyLinkedListNode<Key> keyNode = bucket.keys.getFirstNode();
+                    bucket.keys.detachNode(keyNode);
+                    previous.getElement().keys.addNodeAtLast(keyNode);
+                    mapper.get(keyNode.getElement()).bucketNode = previous;
+                }
+                buckets.detachNode(current);
+            } else {
+                previous = current;
+            }
+            current = next;
+        }
+    }
+
+    private static class FrequencyBucket<Key> {
+        private final DoublyLinkedList<Key> keys;
+        private int frequency;
+
+        FrequencyBucket(int frequency) {
+            this.keys = new DoublyLinkedList<>();
+            this.frequency = frequency;
+        }
+    }
+
+    private static class Entry<Key> {
+        private final DoublyLinkedListNode<Key> keyNode;
+        private DoublyLinkedListNode<FrequencyBucket<Key>> bucketNode;
+
+        Entry(DoublyLinkedListNode<Key> keyNode, DoublyLinkedListNode<FrequencyBucket<Key>> bucketNode) {
+            this.keyNode = keyNode;
+            this.bucketNode = bucketNode;
+        }
+    }
+}
@@ -54,7 +54,8 @@ public class LRUEvictionPolicy<Key> implements EvictionPolicy<Key> {
      * Determines and returns the least recently used key that should be evicted from the cache.
      * <p>
      * This method retrieves the first node from the doubly linked list, which represents the least recently used key,
-     * detaches it from the list, and returns its associated key. If the list is empty, it returns null.
+     * detaches it from the list, stops tracking it, and returns its associated key. If the list is empty, it returns
+     * null.
      *
      * @return The key that should be evicted or null if no key can be evicted.
      */
@@ -67,7 +68,18 @@ public class LRUEvictionPolicy<Key> implements EvictionPolicy<Key> {
             return null;
         }
         dll.detachNode(first);
+        mapper.remove(first.getElement());
         return first.getElement();
     }
+
+    /**
+     * Stops tracking a key which was removed from the cache, so that it is not picked for eviction later.
+     *
+     * @param key The key that was removed.
+     */
+    @Override
+    public void keyRemoved(Key key) {
+        dll.detachNode(mapper.remove(key));
+    }
 }
 
@@ -37,19 +37,20 @@ public class HashMapBasedStorage<K, V> implements Storage<K, V> {
     /**
      * Adds a key-value pair to the storage.
      * <p>
-     * This method inserts or updates the entry with the specified key and value in the storage. If the storage is full,
-     * a {@link StorageFullException} is thrown.
+     * This method inserts or updates the entry with the specified key and value in the storage. If the storage is full
+     * and the key is not already present, a {@link StorageFullException} is thrown.
      *
      * @param key The key for the entry to be added.
      * @param value The value associated with the key to be stored.
-     * @throws StorageFullException if the storage has reached its capacity.
+     * @return The value previously associated with the key, or null if there was none.
+     * @throws StorageFullException if the storage has reached its capacity and the key is new.
      */
     @Override
-    public void add(K key, V value) {
-        if (isStorageFull()) {
+    public V add(K key, V value) {
+        if (!storage.containsKey(key) && isStorageFull()) {
             throw new StorageFullException("Capacity Full.....");
         }
-        storage.put(key, value);
+        return storage.put(key, value);
     }
 
     /**
@@ -59,14 +60,38 @@ public class HashMapBasedStorage<K, V> implements Storage<K, V> {
      * {@link NotFoundException} is thrown.
      *
      * @param key The key of the entry to be removed.
+     * @return The value which was associated with the key.
      * @throws NotFoundException if the key does not exist in the storage.
      */
     @Override
-    public void remove(K key) throws NotFoundException {
+    public V remove(K key) throws NotFoundException {
         if (!storage.containsKey(key)) {
             throw new NotFoundException(key + " doesn't exist in cache.");
         }
-        storage.remove(key);
+        return storage.remove(key);
+    }
+
+    /**
+     * Removes the entry with the specified key only if it is currently associated with the specified value.
+     *
+     * @param key The key of the entry to be removed.
+     * @param value The value the key is expected to be associated with.
+     * @return true if the entry was removed, false otherwise.
+     */
+    @Override
+    public boolean remove(K key, V value) {
+        return storage.remove(key, value);
+    }
+
+    /**
+     * Checks whether the storage holds an entry for the specified key.
+     *
+     * @param key The key to be looked up.
+     * @return true if the storage holds an entry for the key, false otherwise.
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return storage.containsKey(key);
     }
 
     /**
@@ -2,6 +2,8 @@ package org.ravikant.cache.storage;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * A storage implementation based on {@link LinkedHashMap} that supports
@@ -24,10 +26,27 @@ public class LinkedHashMapBasedStorage<K, V> implements Storage<K, V> {
      *                 evicting the least recently used entry
      */
     public LinkedHashMapBasedStorage(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * Constructs a new storage with the specified capacity which reports every entry it drops on its own to the given
+     * handler, e.g. to notify a {@link org.ravikant.cache.listeners.RemovalListener}.
+     *
+     * @param capacity        the maximum number of entries the storage can hold before
+     *                        evicting the least recently used entry
+     * @param evictionHandler called with the key and value of every entry evicted because
+     *                        the capacity was exceeded, may be {@code null}
+     */
+    public LinkedHashMapBasedStorage(int capacity, BiConsumer<K, V> evictionHandler) {
         this.storage = new LinkedHashMap<K, V>(capacity, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > capacity;
+                boolean evict = size() > capacity;
+                if (evict && Objects.nonNull(evictionHandler)) {
+                    evictionHandler.accept(eldest.getKey(), eldest.getValue());
+                }
+                return evict;
             }
         };
     }
@@ -38,20 +57,50 @@ public class LinkedHashMapBasedStorage<K, V> implements Storage<K, V> {
      *
      * @param key   the key with which the specified value is to be associated
      * @param value the value to be associated with the specified key
+     * @return the value previously associated with the key, or {@code null} if
+     *         there was none
      */
     @Override
-    public void add(K key, V value) {
-        storage.put(key, value);
+    public V add(K key, V value) {
+        return storage.put(key, value);
     }
 
     /**
      * Removes the mapping for the specified key from this storage if present.
      *
      * @param key the key whose mapping is to be removed from the storage
+     * @return the value which was associated with the key, or {@code null} if
+     *         no mapping existed for the key
+     */
+    @Override
+    public V remove(K key) {
+        return storage.remove(key);
+    }
+
+    /**
+     * Removes the mapping for the specified key only if it is currently mapped
+     * to the specified value. This does not count as an access.
+     *
+     * @param key   the key whose mapping is to be removed from the storage
+     * @param value the value the key is expected to be mapped to
+     * @return {@code true} if the mapping was removed
+     */
+    @Override
+    public boolean remove(K key, V value) {
+        return storage.remove(key, value);
+    }
+
+    /**
+     * Returns {@code true} if this storage contains a mapping for the specified
+     * key. Unlike {@link #get(Object)}, this does not move the entry in the
+     * access order.
+     *
+     * @param key the key whose presence is to be tested
+     * @return {@code true} if a mapping exists for the key
      */
     @Override
-    public void remove(K key) {
-        storage.remove(key);
+    public boolean containsKey(K key) {
+        return storage.containsKey(key);
     }
 
     /**
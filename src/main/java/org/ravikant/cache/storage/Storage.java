@@ -20,8 +20,9 @@ public interface Storage<K, V> {
      *
      * @param key The key for the entry to be added.
      * @param value The value associated with the key to be stored.
+     * @return The value previously associated with the key, or null if there was none.
      */
-    void add(K key, V value);
+    V add(K key, V value);
 
     /**
      * Removes the entry with the specified key from the storage.
@@ -29,8 +30,31 @@ public interface Storage<K, V> {
      * This method deletes the entry associated with the given key. If the key does not exist, no action is taken.
      *
      * @param key The key of the entry to be removed.
+     * @return The value which was associated with the key.
      */
-    void remove(K key);
+    V remove(K key);
+
+    /**
+     * Removes the entry with the specified key only if it is currently associated with the specified value.
+     * <p>
+     * Like {@link #containsKey(Object)}, this method never throws for a missing key and does not count as an access.
+     *
+     * @param key The key of the entry to be removed.
+     * @param value The value the key is expected to be associated with.
+     * @return true if the entry was removed, false otherwise.
+     */
+    boolean remove(K key, V value);
+
+    /**
+     * Checks whether the storage holds an entry for the specified key.
+     * <p>
+     * Unlike {@link #get(Object)}, this method never throws for a missing key and does not count as an access, so it
+     * does not change the order of an access ordered storage.
+     *
+     * @param key The key to be looked up.
+     * @return true if the storage holds an entry for the key, false otherwise.
+     */
+    boolean containsKey(K key);
 
     /**
      * Retrieves the value associated with the specified key from the storage.
@@ -0,0 +1,101 @@
+package org.ravikant.loadtest;
+
+/**
+ * Records latencies in the style of an HDR histogram: values are grouped into buckets whose width grows with the
+ * magnitude of the value, so that any recorded value can be reported back with a relative error below 1% while the
+ * whole {@code long} range fits in a few thousand counters.
+ * <p>
+ * Values below {@code 2^SUB_BUCKET_BITS} are counted exactly. Every following power of two range is split into
+ * {@code 2^(SUB_BUCKET_BITS - 1)} equally wide buckets.
+ * <p>
+ * Not thread safe. Each load test thread records into its own histogram and the results are merged at the end.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final long[] counts;
+    private long totalCount;
+    private long maxValue;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a single value.
+     *
+     * @param value The value to be recorded, e.g. a latency in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        long safeValue = Math.max(0, value);
+        counts[indexOf(safeValue)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, safeValue);
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     *
+     * @param other The histogram to be merged.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    /**
+     * Returns the value at the given percentile, i.e. the smallest value such that at least {@code percentile}% of the
+     * recorded values are less than or equal to it.
+     *
+     * @param percentile The percentile in {@code [0, 100]}.
+     * @return The value at the percentile, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Shift the value so that its top SUB_BUCKET_BITS bits remain, they identify the bucket within its range.
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return HALF_SUB_BUCKET_COUNT + shift * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - HALF_SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT;
+        long subBucket = (index - HALF_SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
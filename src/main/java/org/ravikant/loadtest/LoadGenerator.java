@@ -0,0 +1,272 @@
+package org.ravikant.loadtest;
+
+import org.ravikant.cache.Cache;
+import org.ravikant.cache.factories.CacheFactory;
+import org.ravikant.cache.policies.LFUEvictionPolicy;
+import org.ravikant.cache.policies.LRUEvictionPolicy;
+import org.ravikant.cache.storage.HashMapBasedStorage;
+import org.ravikant.loadtest.generators.HotspotKeyGenerator;
+import org.ravikant.loadtest.generators.KeyGenerator;
+import org.ravikant.loadtest.generators.ScanKeyGenerator;
+import org.ravikant.loadtest.generators.ZipfianKeyGenerator;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs a mix of reader and writer threads against a {@link Cache} and reports tail latencies, hit ratio and GC time.
+ * <p>
+ * Two modes are supported. In closed loop mode every thread issues operations back to back, which measures peak
+ * throughput. In fixed rate mode every thread follows a schedule of {@code targetOpsPerSecondPerThread}, and each
+ * latency is measured from the time the operation was scheduled rather than the time it actually started. A stall
+ * therefore shows up in the latency of every operation queued behind it, instead of being hidden by the thread not
+ * issuing them (coordinated omission).
+ * <p>
+ * {@link Cache} is not thread safe, so every access is synchronized on the cache instance, as any concurrent caller
+ * would have to. Time spent waiting for that lock is part of the measured latency.
+ */
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+
+    public LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Runs the warmup followed by the measured phase on a fresh cache.
+     * <p>
+     * The cache's console logging of misses and evictions is turned off, otherwise the run would mostly measure
+     * contention on {@link System#out} rather than the cache.
+     *
+     * @return The results of the measured phase.
+     * @throws InterruptedException if interrupted while waiting for the threads to finish.
+     */
+    public LoadTestReport run() throws InterruptedException {
+        Cache<Long, Long> cache = config.getCacheSupplier().get();
+        cache.setConsoleLoggingEnabled(false);
+        if (!config.getWarmup().isZero()) {
+            runPhase(cache, config.getWarmup());
+        }
+        return runPhase(cache, config.getDuration());
+    }
+
+    private LoadTestReport runPhase(Cache<Long, Long> cache, Duration duration) throws InterruptedException {
+        long intervalNanos = config.getTargetOpsPerSecondPerThread() > 0
+                ? 1_000_000_000L / config.getTargetOpsPerSecondPerThread()
+                : 0;
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < config.getReaderThreads(); i++) {
+            workers.add(new Worker(cache, config.getKeyGeneratorSupplier().get(), true, intervalNanos));
+        }
+        for (int i = 0; i < config.getWriterThreads(); i++) {
+            workers.add(new Worker(cache, config.getKeyGeneratorSupplier().get(), false, intervalNanos));
+        }
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (Worker worker : workers) {
+            Thread thread = new Thread(() -> {
+                try {
+                    startSignal.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                worker.run();
+            }, (worker.reader ? "reader-" : "writer-") + threads.size());
+            thread.start();
+            threads.add(thread);
+        }
+
+        long gcTimeBefore = totalGcTimeMillis();
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + duration.toNanos();
+        for (Worker worker : workers) {
+            worker.startNanos = startNanos;
+            worker.deadlineNanos = deadlineNanos;
+        }
+        // The latch publishes the start and deadline to the workers.
+        startSignal.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        long gcTime = totalGcTimeMillis() - gcTimeBefore;
+
+        LatencyHistogram getLatencies = new LatencyHistogram();
+        LatencyHistogram putLatencies = new LatencyHistogram();
+        long hits = 0;
+        long misses = 0;
+        for (Worker worker : workers) {
+            getLatencies.merge(worker.getLatencies);
+            putLatencies.merge(worker.putLatencies);
+            hits += worker.hits;
+            misses += worker.misses;
+        }
+        return new LoadTestReport(getLatencies, putLatencies, hits, misses, gcTime, elapsed);
+    }
+
+    private static long totalGcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * A single load test thread. Readers do a cache-aside lookup, loading the key into the cache on a miss, writers
+     * only put.
+     */
+    private static class Worker implements Runnable {
+        private final Cache<Long, Long> cache;
+        private final KeyGenerator keyGenerator;
+        private final boolean reader;
+        private final long intervalNanos;
+        private final LatencyHistogram getLatencies = new LatencyHistogram();
+        private final LatencyHistogram putLatencies = new LatencyHistogram();
+        private long startNanos;
+        private long deadlineNanos;
+        private long hits;
+        private long misses;
+
+        Worker(Cache<Long, Long> cache, KeyGenerator keyGenerator, boolean reader, long intervalNanos) {
+            this.cache = cache;
+            this.keyGenerator = keyGenerator;
+            this.reader = reader;
+            this.intervalNanos = intervalNanos;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long intendedStart = startNanos;
+            while (true) {
+                long operationStart;
+                if (intervalNanos > 0) {
+                    if (intendedStart >= deadlineNanos) {
+                        return;
+                    }
+                    long now;
+                    while ((now = System.nanoTime()) < intendedStart) {
+                        LockSupport.parkNanos(intendedStart - now);
+                    }
+                    // Measure from the schedule, not from when we got around to it.
+                    operationStart = intendedStart;
+                    intendedStart += intervalNanos;
+                } else {
+                    operationStart = System.nanoTime();
+                    if (operationStart >= deadlineNanos) {
+                        return;
+                    }
+                }
+
+                Long key = keyGenerator.nextKey(random);
+                if (reader) {
+                    read(key, operationStart);
+                } else {
+                    write(key, operationStart);
+                }
+            }
+        }
+
+        private void read(Long key, long operationStart) {
+            Long value;
+            synchronized (cache) {
+                value = cache.get(key);
+            }
+            long end = System.nanoTime();
+            getLatencies.record(end - operationStart);
+            if (value != null) {
+                hits++;
+            } else {
+                misses++;
+                write(key, end);
+            }
+        }
+
+        private void write(Long key, long operationStart) {
+            synchronized (cache) {
+                cache.put(key, key);
+            }
+            putLatencies.record(System.nanoTime() - operationStart);
+        }
+    }
+
+    /**
+     * Runs a load test configured through {@code name=value} arguments and prints the report, e.g.
+     * {@code readers=8 writers=2 seconds=30 capacity=10000 keys=100000 distribution=zipfian rate=0 cache=lru}.
+     * <ul>
+     *     <li>{@code distribution}: {@code zipfian}, {@code hotspot} or {@code scan}.</li>
+     *     <li>{@code rate}: operations per second per thread, {@code 0} for closed loop.</li>
+     *     <li>{@code cache}: {@code default} for {@link CacheFactory#getDefaultCache(int)}, {@code lru} for an
+     *     {@link LRUEvictionPolicy} and {@code lfu} for an {@link LFUEvictionPolicy} over a
+     *     {@link HashMapBasedStorage}.</li>
+     * </ul>
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected name=value but got: " + arg);
+            }
+            options.put(parts[0], parts[1]);
+        }
+        int capacity = Integer.parseInt(options.getOrDefault("capacity", "10000"));
+        long keys = Long.parseLong(options.getOrDefault("keys", "100000"));
+        String distribution = options.getOrDefault("distribution", "zipfian");
+        String cacheType = options.getOrDefault("cache", "lru");
+
+        LoadTestConfig config = LoadTestConfig.builder()
+                .cacheSupplier(cacheSupplier(cacheType, capacity))
+                .keyGeneratorSupplier(keyGeneratorSupplier(distribution, keys))
+                .readerThreads(Integer.parseInt(options.getOrDefault("readers", "4")))
+                .writerThreads(Integer.parseInt(options.getOrDefault("writers", "1")))
+                .warmup(Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "2"))))
+                .duration(Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "10"))))
+                .targetOpsPerSecondPerThread(Long.parseLong(options.getOrDefault("rate", "0")))
+                .build();
+        System.out.println("Running " + distribution + " workload against " + cacheType + " cache of capacity "
+                + capacity + " over " + keys + " keys...");
+        System.out.print(new LoadGenerator(config).run());
+    }
+
+    private static Supplier<Cache<Long, Long>> cacheSupplier(String cacheType, int capacity) {
+        switch (cacheType) {
+            case "default":
+                return () -> CacheFactory.getDefaultCache(capacity);
+            case "lru":
+                return () -> CacheFactory.buildCache(new LRUEvictionPolicy<>(), new HashMapBasedStorage<>(capacity));
+            case "lfu":
+                return () -> CacheFactory.buildCache(new LFUEvictionPolicy<>(), new HashMapBasedStorage<>(capacity));
+            default:
+                throw new IllegalArgumentException("Unknown cache: " + cacheType);
+        }
+    }
+
+    private static Supplier<KeyGenerator> keyGeneratorSupplier(String distribution, long keys) {
+        switch (distribution) {
+            case "zipfian":
+                // Stateless after its O(keys) setup, so all threads can share one.
+                ZipfianKeyGenerator zipfian = new ZipfianKeyGenerator(keys);
+                return () -> zipfian;
+            case "hotspot":
+                return () -> new HotspotKeyGenerator(keys, 0.2, 0.8);
+            case "scan":
+                return () -> new ScanKeyGenerator(keys, ThreadLocalRandom.current().nextLong(keys));
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.ravikant.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.ravikant.cache.Cache;
+import org.ravikant.loadtest.generators.KeyGenerator;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Describes a single load test run: which cache to hammer, with how many threads, which keys and at which rate.
+ */
+@Getter
+@Builder
+public class LoadTestConfig {
+
+    /**
+     * Creates the cache under test, e.g. one of the {@link org.ravikant.cache.factories.CacheFactory} methods.
+     */
+    private final Supplier<Cache<Long, Long>> cacheSupplier;
+
+    /**
+     * Creates the key generator of each thread.
+     */
+    private final Supplier<KeyGenerator> keyGeneratorSupplier;
+
+    /**
+     * Threads which read keys and, on a miss, load them into the cache.
+     */
+    @Builder.Default
+    private final int readerThreads = 4;
+
+    /**
+     * Threads which only write keys, causing replacement and eviction churn.
+     */
+    @Builder.Default
+    private final int writerThreads = 1;
+
+    /**
+     * Time the threads run before measurement starts, to let the JIT and the cache settle.
+     */
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(2);
+
+    /**
+     * Time during which latencies are recorded.
+     */
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(10);
+
+    /**
+     * Operations per second each thread is scheduled to issue. Zero runs closed loop, where each thread issues its next
+     * operation as soon as the previous one finished.
+     */
+    @Builder.Default
+    private final long targetOpsPerSecondPerThread = 0;
+}
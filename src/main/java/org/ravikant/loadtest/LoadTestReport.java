@@ -0,0 +1,60 @@
+package org.ravikant.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Results of a load test run.
+ */
+@Getter
+public class LoadTestReport {
+    private final LatencyHistogram getLatencies;
+    private final LatencyHistogram putLatencies;
+    private final long hits;
+    private final long misses;
+    private final long gcTimeMillis;
+    private final Duration elapsed;
+
+    public LoadTestReport(LatencyHistogram getLatencies, LatencyHistogram putLatencies, long hits, long misses,
+                          long gcTimeMillis, Duration elapsed) {
+        this.getLatencies = getLatencies;
+        this.putLatencies = putLatencies;
+        this.hits = hits;
+        this.misses = misses;
+        this.gcTimeMillis = gcTimeMillis;
+        this.elapsed = elapsed;
+    }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public double getThroughput() {
+        long operations = getLatencies.getTotalCount() + putLatencies.getTotalCount();
+        return operations / (elapsed.toNanos() / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-4s %12s %12s %12s %12s %12s%n", "op", "count", "p50(us)", "p99(us)",
+                "p99.9(us)", "max(us)"));
+        appendRow(report, "get", getLatencies);
+        appendRow(report, "put", putLatencies);
+        report.append(String.format("hit ratio: %.4f, throughput: %.0f ops/s, gc time: %d ms over %d ms%n",
+                getHitRatio(), getThroughput(), gcTimeMillis, elapsed.toMillis()));
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String operation, LatencyHistogram histogram) {
+        report.append(String.format("%-4s %12d %12.2f %12.2f %12.2f %12.2f%n", operation, histogram.getTotalCount(),
+                micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)), micros(histogram.getMaxValue())));
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
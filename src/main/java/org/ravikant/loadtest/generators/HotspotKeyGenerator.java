@@ -0,0 +1,36 @@
+package org.ravikant.loadtest.generators;
+
+import java.util.Random;
+
+/**
+ * Generates keys where a small hot set receives most of the accesses, e.g. 20% of the keys getting 80% of the
+ * operations. Keys are uniform within the hot set and within the cold set.
+ */
+public class HotspotKeyGenerator implements KeyGenerator {
+
+    private final long keySpace;
+    private final long hotSetSize;
+    private final double hotOperationFraction;
+
+    /**
+     * @param keySpace             Number of distinct keys.
+     * @param hotSetFraction       Fraction of the keys which are hot, in {@code (0, 1]}.
+     * @param hotOperationFraction Fraction of the accesses which go to the hot keys, in {@code [0, 1]}.
+     */
+    public HotspotKeyGenerator(long keySpace, double hotSetFraction, double hotOperationFraction) {
+        if (keySpace < 1) {
+            throw new IllegalArgumentException("Key space must not be empty: " + keySpace);
+        }
+        this.keySpace = keySpace;
+        this.hotSetSize = Math.max(1, Math.min(keySpace, (long) (keySpace * hotSetFraction)));
+        this.hotOperationFraction = hotOperationFraction;
+    }
+
+    @Override
+    public long nextKey(Random random) {
+        if (hotSetSize == keySpace || random.nextDouble() < hotOperationFraction) {
+            return (long) (random.nextDouble() * hotSetSize);
+        }
+        return hotSetSize + (long) (random.nextDouble() * (keySpace - hotSetSize));
+    }
+}
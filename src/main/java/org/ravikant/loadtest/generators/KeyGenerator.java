@@ -0,0 +1,18 @@
+package org.ravikant.loadtest.generators;
+
+import java.util.Random;
+
+/**
+ * Produces the sequence of keys a load test thread accesses. The load generator asks for one instance per thread, so
+ * implementations which keep state do not need to be thread safe.
+ */
+public interface KeyGenerator {
+
+    /**
+     * Returns the next key to be accessed.
+     *
+     * @param random The random source of the calling thread.
+     * @return A key in the range {@code [0, keySpace)}.
+     */
+    long nextKey(Random random);
+}
@@ -0,0 +1,32 @@
+package org.ravikant.loadtest.generators;
+
+import java.util.Random;
+
+/**
+ * Generates keys sequentially, wrapping around at the end of the key space. A scan larger than the cache defeats
+ * recency based eviction, which makes it a useful worst case.
+ */
+public class ScanKeyGenerator implements KeyGenerator {
+
+    private final long keySpace;
+    private long position;
+
+    /**
+     * @param keySpace Number of distinct keys.
+     * @param start    Key at which the scan starts, so that threads can scan different parts of the key space.
+     */
+    public ScanKeyGenerator(long keySpace, long start) {
+        if (keySpace < 1) {
+            throw new IllegalArgumentException("Key space must not be empty: " + keySpace);
+        }
+        this.keySpace = keySpace;
+        this.position = Math.floorMod(start, keySpace);
+    }
+
+    @Override
+    public long nextKey(Random random) {
+        long key = position;
+        position = position + 1 == keySpace ? 0 : position + 1;
+        return key;
+    }
+}
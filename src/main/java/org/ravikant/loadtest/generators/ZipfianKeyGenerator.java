@@ -0,0 +1,65 @@
+package org.ravikant.loadtest.generators;
+
+import java.util.Random;
+
+/**
+ * Generates keys following a Zipfian distribution, where a few keys are very popular and the popularity of the rest
+ * falls off as a power law. Key {@code 0} is the most popular one.
+ * <p>
+ * Uses the rejection-free method from Gray et al., "Quickly Generating Billion-Record Synthetic Databases", which
+ * needs an O(keySpace) setup and O(1) per key.
+ */
+public class ZipfianKeyGenerator implements KeyGenerator {
+
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final long keySpace;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+
+    public ZipfianKeyGenerator(long keySpace) {
+        this(keySpace, DEFAULT_THETA);
+    }
+
+    /**
+     * @param keySpace Number of distinct keys.
+     * @param theta    Skew of the distribution in {@code (0, 1)}, higher is more skewed.
+     */
+    public ZipfianKeyGenerator(long keySpace, double theta) {
+        if (keySpace < 2) {
+            throw new IllegalArgumentException("Key space must have at least two keys: " + keySpace);
+        }
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("Theta must be between 0 and 1: " + theta);
+        }
+        this.keySpace = keySpace;
+        this.theta = theta;
+        this.zetaN = zeta(keySpace, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / keySpace, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+    }
+
+    @Override
+    public long nextKey(Random random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        long key = (long) (keySpace * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(key, keySpace - 1);
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
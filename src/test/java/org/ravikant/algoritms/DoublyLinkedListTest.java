@@ -59,6 +59,28 @@ class DoublyLinkedListTest {
         verifyDLL(dll, ImmutableList.of(2, 4));
     }
 
+    @Test
+    void testDLLInsertionAtFirstAndAfterNode() {
+        DoublyLinkedList<Integer> dll = new DoublyLinkedList<>();
+
+        DoublyLinkedListNode<Integer> node3 = new DoublyLinkedListNode<>(3);
+        dll.addNodeAtFirst(node3);
+        verifyDLL(dll, ImmutableList.of(3));
+
+        DoublyLinkedListNode<Integer> node1 = new DoublyLinkedListNode<>(1);
+        dll.addNodeAtFirst(node1);
+        verifyDLL(dll, ImmutableList.of(1, 3));
+
+        dll.addNodeAfter(node1, new DoublyLinkedListNode<>(2));
+        verifyDLL(dll, ImmutableList.of(1, 2, 3));
+
+        dll.addNodeAfter(node3, new DoublyLinkedListNode<>(4));
+        verifyDLL(dll, ImmutableList.of(1, 2, 3, 4));
+
+        assertEquals(2, dll.getNextNode(node1).getElement());
+        assertNull(dll.getNextNode(dll.getLastNode()));
+    }
+
     void verifyDLL(DoublyLinkedList<Integer> dll, List<Integer> expectedListElements) {
         assertEquals(expectedListElements.get(expectedListElements.size() - 1), dll.getLastNode().getElement());
         assertEquals(expectedListElements.get(0), dll.getFirstNode().getElement());
@@ -0,0 +1,62 @@
+package org.ravikant.algoritms;
+
+import org.junit.jupiter.api.Test;
+import org.ravikant.algoritms.exceptions.InvalidElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void testCapacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(2, new RingBuffer<Integer>(1).capacity());
+        assertEquals(2, new RingBuffer<Integer>(2).capacity());
+        assertEquals(4, new RingBuffer<Integer>(3).capacity());
+        assertEquals(8, new RingBuffer<Integer>(8).capacity());
+    }
+
+    @Test
+    void testInvalidCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>((1 << 30) + 1));
+    }
+
+    @Test
+    void testSmallestBufferWrapsAround() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(1);
+        for (int lap = 0; lap < 3; lap++) {
+            assertTrue(buffer.offer(1));
+            assertTrue(buffer.offer(2));
+            assertFalse(buffer.offer(3));
+            assertEquals(1, buffer.poll());
+            assertTrue(buffer.offer(3));
+            assertEquals(2, buffer.poll());
+            assertEquals(3, buffer.poll());
+            assertNull(buffer.poll());
+        }
+    }
+
+    @Test
+    void testElementsArePolledInTheOrderInWhichTheyAreOffered() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+
+        // Go around the array a few times to check that slots are reused.
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 1; i <= 4; i++) {
+                assertTrue(buffer.offer(i));
+            }
+            assertFalse(buffer.offer(5));
+            for (int i = 1; i <= 4; i++) {
+                assertEquals(i, buffer.poll());
+            }
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    void testNullElementIsRejected() {
+        assertThrows(InvalidElementException.class, () -> new RingBuffer<Integer>(2).offer(null));
+    }
+}
@@ -3,8 +3,19 @@ package org.ravikant.cache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.ravikant.cache.factories.CacheFactory;
+import org.ravikant.cache.listeners.RemovalCause;
+import org.ravikant.cache.listeners.RemovalNotification;
+import org.ravikant.cache.listeners.RemovalNotifier;
+import org.ravikant.cache.policies.LRUEvictionPolicy;
+import org.ravikant.cache.storage.HashMapBasedStorage;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class CacheTest {
     Cache<Integer, Integer> cache;
@@ -30,4 +41,74 @@ public class CacheTest {
 
         cache.get(2); // This should throw exception "Tried to access non-existing key."
     }
+
+    @Test
+    public void itShouldNotifyRemovalListenerWithTheCauseOfRemoval() {
+        List<RemovalNotification<Integer, Integer>> removed = new ArrayList<>();
+        Cache<Integer, Integer> listenedCache = CacheFactory.buildCache(new LRUEvictionPolicy<>(),
+                new HashMapBasedStorage<>(2), new RemovalNotifier<>(removed::add, Runnable::run));
+
+        listenedCache.put(1, 1);
+        listenedCache.put(2, 2);
+        listenedCache.put(1, 10);
+        listenedCache.put(3, 3); // Evicts 2, the least recently used key.
+        listenedCache.remove(1);
+        listenedCache.remove(1); // Already gone, nothing to report.
+
+        assertEquals(3, removed.size());
+        assertNotification(removed.get(0), 1, 1, RemovalCause.REPLACED);
+        assertNotification(removed.get(1), 2, 2, RemovalCause.EVICTED);
+        assertNotification(removed.get(2), 1, 10, RemovalCause.EXPLICIT);
+        assertNull(listenedCache.get(1));
+        assertEquals(3, listenedCache.get(3));
+    }
+
+    @Test
+    public void itShouldRemoveOnlyWhenKeyHoldsTheGivenValue() {
+        List<RemovalNotification<Integer, Integer>> removed = new ArrayList<>();
+        Cache<Integer, Integer> listenedCache = CacheFactory.buildCache(new LRUEvictionPolicy<>(),
+                new HashMapBasedStorage<>(2), new RemovalNotifier<>(removed::add, Runnable::run));
+        listenedCache.put(1, 1);
+
+        assertFalse(listenedCache.remove(1, 2));
+        assertFalse(listenedCache.remove(2, 2));
+        assertEquals(0, removed.size());
+
+        assertTrue(listenedCache.remove(1, 1));
+        assertEquals(1, removed.size());
+        assertNotification(removed.get(0), 1, 1, RemovalCause.EXPLICIT);
+        assertNull(listenedCache.get(1));
+    }
+
+    @Test
+    public void itShouldNotNotifyRemovalListenerWhenSameValueIsPutAgain() {
+        List<RemovalNotification<String, String>> removed = new ArrayList<>();
+        Cache<String, String> listenedCache = CacheFactory.buildCache(new LRUEvictionPolicy<>(),
+                new HashMapBasedStorage<>(2), new RemovalNotifier<>(removed::add, Runnable::run));
+        String value = "value";
+
+        listenedCache.put("key", value);
+        listenedCache.put("key", value);
+
+        assertEquals(0, removed.size());
+    }
+
+    @Test
+    public void itShouldNotifyRemovalListenerWhenDefaultCacheDropsAnEntry() {
+        List<RemovalNotification<Integer, Integer>> removed = new ArrayList<>();
+        Cache<Integer, Integer> listenedCache = CacheFactory.getDefaultCache(1, removed::add, Runnable::run);
+
+        listenedCache.put(1, 1);
+        listenedCache.put(2, 2);
+
+        assertEquals(1, removed.size());
+        assertNotification(removed.get(0), 1, 1, RemovalCause.SIZE);
+    }
+
+    private void assertNotification(RemovalNotification<Integer, Integer> notification, int key, int value,
+                                    RemovalCause cause) {
+        assertEquals(key, notification.getKey());
+        assertEquals(value, notification.getValue());
+        assertEquals(cause, notification.getCause());
+    }
 }
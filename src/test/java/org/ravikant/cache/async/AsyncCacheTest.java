@@ -0,0 +1,134 @@
+package org.ravikant.cache.async;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ravikant.cache.factories.CacheFactory;
+import org.ravikant.cache.policies.LRUEvictionPolicy;
+import org.ravikant.cache.storage.HashMapBasedStorage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCacheTest {
+    private AsyncCache<Integer, String> asyncCache;
+
+    @BeforeEach
+    void setUp() {
+        asyncCache = CacheFactory.getDefaultAsyncCache(3, Runnable::run);
+    }
+
+    @Test
+    void testInFlightFutureIsSharedBetweenCallers() {
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        AsyncCacheLoader<Integer, String> loader = (key, executor) -> {
+            loads.incrementAndGet();
+            return pending;
+        };
+
+        CompletableFuture<String> first = asyncCache.get(1, loader);
+        CompletableFuture<String> second = asyncCache.get(1, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertFalse(first.isDone());
+
+        pending.complete("one");
+        assertEquals("one", second.join());
+        assertSame(first, asyncCache.getIfPresent(1));
+    }
+
+    @Test
+    void testFailedFutureIsRemoved() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> future = asyncCache.get(1, (key, executor) -> pending);
+        assertSame(future, asyncCache.getIfPresent(1));
+
+        pending.completeExceptionally(new IllegalStateException("remote down"));
+        assertTrue(future.isCompletedExceptionally());
+        assertNull(asyncCache.getIfPresent(1));
+
+        // The next caller triggers a fresh load.
+        assertEquals("one", asyncCache.get(1, key -> "one").join());
+    }
+
+    @Test
+    void testLoaderErrorDoesNotLeaveDeadPlaceholder() {
+        assertThrows(AssertionError.class, () -> asyncCache.get(1, (key, executor) -> {
+            throw new AssertionError("boom");
+        }));
+        assertNull(asyncCache.getIfPresent(1));
+        assertEquals("one", asyncCache.get(1, key -> "one").join());
+    }
+
+    @Test
+    void testLoaderExceptionFailsReturnedFuture() {
+        CompletableFuture<String> future = asyncCache.get(1, (key, executor) -> {
+            throw new IllegalStateException("boom");
+        });
+        assertTrue(future.isCompletedExceptionally());
+        assertNull(asyncCache.getIfPresent(1));
+    }
+
+    @Test
+    void testSynchronousViewReturnsNullForCancelledLoad() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        asyncCache.put(1, pending);
+        SynchronousView<Integer, String> view = asyncCache.synchronous();
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(() -> view.get(1));
+        // The cache's removal callback is one dependent, the view blocked in join() is the second.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pending.getNumberOfDependents() < 2) {
+            assertTrue(System.nanoTime() < deadline, "view never started waiting on the load");
+            Thread.yield();
+        }
+        pending.cancel(true);
+
+        assertNull(waiting.get(5, TimeUnit.SECONDS));
+        assertNull(asyncCache.getIfPresent(1));
+    }
+
+    @Test
+    void testFailedStaleFutureDoesNotTouchNewerEntry() {
+        AsyncCache<Integer, String> lruCache = CacheFactory.buildAsyncCache(new LRUEvictionPolicy<>(),
+                new HashMapBasedStorage<>(2), Runnable::run);
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        lruCache.put(1, stale);
+        lruCache.put(1, CompletableFuture.completedFuture("one"));
+        lruCache.put(2, CompletableFuture.completedFuture("two"));
+
+        // Must neither remove the newer future of 1 nor count as an access to it.
+        stale.completeExceptionally(new IllegalStateException("remote down"));
+        lruCache.put(3, CompletableFuture.completedFuture("three"));
+
+        assertNull(lruCache.getIfPresent(1));
+        assertEquals("two", lruCache.getIfPresent(2).join());
+        assertEquals("three", lruCache.getIfPresent(3).join());
+    }
+
+    @Test
+    void testNullValueIsNotCached() {
+        assertNull(asyncCache.get(1, key -> null).join());
+        assertNull(asyncCache.getIfPresent(1));
+    }
+
+    @Test
+    void testSynchronousViewSharesEntries() {
+        SynchronousView<Integer, String> view = asyncCache.synchronous();
+        view.put(1, "one");
+        assertEquals("one", asyncCache.getIfPresent(1).join());
+        assertEquals("two", view.get(2, key -> "two"));
+        assertEquals("two", view.get(2));
+
+        view.remove(1);
+        assertNull(view.get(1));
+        assertThrows(IllegalStateException.class, () -> view.get(3, key -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertNull(view.get(3));
+    }
+}
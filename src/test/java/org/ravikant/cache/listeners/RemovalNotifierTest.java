@@ -0,0 +1,82 @@
+package org.ravikant.cache.listeners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RemovalNotifierTest {
+
+    @Test
+    void testListenerIsOnlyInvokedOnTheExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> removedKeys = new ArrayList<>();
+        RemovalNotifier<String, Integer> notifier =
+                new RemovalNotifier<>(notification -> removedKeys.add(notification.getKey()), tasks::add);
+
+        notifier.notify("A", 1, RemovalCause.EVICTED);
+        notifier.notify("B", 2, RemovalCause.EXPLICIT);
+
+        // Only one drain task is scheduled no matter how many notifications are waiting.
+        assertTrue(removedKeys.isEmpty());
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(2, removedKeys.size());
+        assertEquals("A", removedKeys.get(0));
+        assertEquals("B", removedKeys.get(1));
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void testNotificationsAreDeliveredInBatches() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Integer> removedValues = new ArrayList<>();
+        RemovalNotifier<Integer, Integer> notifier =
+                new RemovalNotifier<>(notification -> removedValues.add(notification.getValue()), tasks::add, 16, 2);
+
+        for (int i = 0; i < 5; i++) {
+            notifier.notify(i, i, RemovalCause.SIZE);
+        }
+        int batches = 0;
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+            batches++;
+        }
+        assertEquals(3, batches);
+        assertEquals(5, removedValues.size());
+    }
+
+    @Test
+    void testNotificationsAreDroppedWhenBufferIsFull() {
+        Executor neverRuns = task -> {
+        };
+        RemovalNotifier<Integer, Integer> notifier = new RemovalNotifier<>(notification -> {
+        }, neverRuns, 2, 2);
+
+        notifier.notify(1, 1, RemovalCause.SIZE);
+        notifier.notify(2, 2, RemovalCause.SIZE);
+        notifier.notify(3, 3, RemovalCause.SIZE);
+        assertEquals(1, notifier.getDroppedCount());
+    }
+
+    @Test
+    void testFailingListenerDoesNotStopDelivery() {
+        List<Integer> removedKeys = new ArrayList<>();
+        RemovalNotifier<Integer, Integer> notifier = new RemovalNotifier<>(notification -> {
+            if (notification.getKey() == 1) {
+                throw new IllegalStateException("boom");
+            }
+            removedKeys.add(notification.getKey());
+        }, Runnable::run);
+
+        notifier.notify(1, 1, RemovalCause.EXPLICIT);
+        notifier.notify(2, 2, RemovalCause.EXPLICIT);
+        assertEquals(1, removedKeys.size());
+        assertEquals(2, removedKeys.get(0));
+    }
+}
@@ -0,0 +1,90 @@
+package org.ravikant.cache.policies;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LFUEvictionPolicyTest {
+    private LFUEvictionPolicy<Integer> lfuEvictionPolicy;
+
+    @BeforeEach
+    void setUp() {
+        // Large aging period so that it does not kick in unless a test wants it to.
+        lfuEvictionPolicy = new LFUEvictionPolicy<>(LFUEvictionPolicy.DEFAULT_MAX_FREQUENCY, 1000);
+    }
+
+    @Test
+    void testNoKeyToEvictInitially() {
+        assertNull(lfuEvictionPolicy.evictKey());
+    }
+
+    @Test
+    void testLeastFrequentlyUsedKeyIsEvictedFirst() {
+        access(lfuEvictionPolicy, 1, 3);
+        access(lfuEvictionPolicy, 2, 1);
+        access(lfuEvictionPolicy, 3, 2);
+        access(lfuEvictionPolicy, 4, 5);
+        assertEquals(2, lfuEvictionPolicy.evictKey());
+        assertEquals(3, lfuEvictionPolicy.evictKey());
+        assertEquals(1, lfuEvictionPolicy.evictKey());
+        assertEquals(4, lfuEvictionPolicy.evictKey());
+        assertNull(lfuEvictionPolicy.evictKey());
+    }
+
+    @Test
+    void testTiesAreBrokenByRecency() {
+        lfuEvictionPolicy.keyAccessed(1);
+        lfuEvictionPolicy.keyAccessed(2);
+        lfuEvictionPolicy.keyAccessed(3);
+        lfuEvictionPolicy.keyAccessed(2);
+        lfuEvictionPolicy.keyAccessed(1);
+        assertEquals(3, lfuEvictionPolicy.evictKey());
+        assertEquals(2, lfuEvictionPolicy.evictKey());
+        assertEquals(1, lfuEvictionPolicy.evictKey());
+    }
+
+    @Test
+    void testEvictedAndRemovedKeysStartOverWhenAccessedAgain() {
+        access(lfuEvictionPolicy, 1, 5);
+        access(lfuEvictionPolicy, 2, 3);
+        lfuEvictionPolicy.keyRemoved(1);
+        lfuEvictionPolicy.keyRemoved(1);
+        lfuEvictionPolicy.keyAccessed(1);
+        assertEquals(1, lfuEvictionPolicy.evictKey());
+        assertEquals(2, lfuEvictionPolicy.evictKey());
+        assertNull(lfuEvictionPolicy.evictKey());
+    }
+
+    @Test
+    void testFrequencySaturatesAtMaxFrequency() {
+        LFUEvictionPolicy<Integer> policy = new LFUEvictionPolicy<>(2, 1000);
+        access(policy, 1, 10);
+        access(policy, 2, 2);
+        // Both saturated at 2, so 1 is evicted first as the least recently used.
+        assertEquals(1, policy.evictKey());
+        assertEquals(2, policy.evictKey());
+    }
+
+    @Test
+    void testAgingLetsOldPopularityFade() {
+        // Ages after 5 accesses per tracked key, i.e. every 10 accesses with two keys.
+        LFUEvictionPolicy<Integer> policy = new LFUEvictionPolicy<>(LFUEvictionPolicy.DEFAULT_MAX_FREQUENCY, 5);
+        policy.keyAccessed(1);
+        policy.keyAccessed(2);
+        access(policy, 1, 7);
+        // The 10th access halves 1 from 8 to 4 and 2 from 2 to 1.
+        policy.keyAccessed(2);
+        // Without aging 1 would still be ahead with 8 against 5.
+        access(policy, 2, 4);
+        assertEquals(1, policy.evictKey());
+        assertEquals(2, policy.evictKey());
+    }
+
+    private void access(LFUEvictionPolicy<Integer> policy, int key, int times) {
+        for (int i = 0; i < times; i++) {
+            policy.keyAccessed(key);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.ravikant.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void testBucketsCoverEveryValueWithinOnePercent() {
+        long[] values = {0, 1, 255, 256, 257, 1000, 123_456, 987_654_321L, Long.MAX_VALUE};
+        for (long value : values) {
+            long reported = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            assertTrue(reported >= value, "value " + value + " reported as " + reported);
+            assertTrue(reported - value <= value / 100, "value " + value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(1_000_000, histogram.getMaxValue());
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 5_000);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 9_900);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testMergeAddsCountsAndKeepsMax() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(20);
+        second.record(30);
+
+        first.merge(second);
+        assertEquals(3, first.getTotalCount());
+        assertEquals(30, first.getMaxValue());
+        assertEquals(20, first.getValueAtPercentile(50));
+    }
+}
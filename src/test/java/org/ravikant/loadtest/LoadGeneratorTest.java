@@ -0,0 +1,45 @@
+package org.ravikant.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.ravikant.cache.factories.CacheFactory;
+import org.ravikant.loadtest.generators.HotspotKeyGenerator;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+
+    @Test
+    void testClosedLoopRunRecordsLatenciesAndHits() throws InterruptedException {
+        LoadTestReport report = new LoadGenerator(config(0)).run();
+
+        assertTrue(report.getGetLatencies().getTotalCount() > 0);
+        assertTrue(report.getPutLatencies().getTotalCount() > 0);
+        assertTrue(report.getHitRatio() > 0 && report.getHitRatio() < 1);
+        assertTrue(report.toString().contains("p99.9"));
+    }
+
+    @Test
+    void testFixedRateRunIssuesScheduledOperations() throws InterruptedException {
+        // 2 threads at 1000 ops/s for 200ms should issue about 400 operations, never more.
+        LoadTestReport report = new LoadGenerator(config(1000)).run();
+
+        long issued = report.getGetLatencies().getTotalCount()
+                + report.getPutLatencies().getTotalCount() - report.getMisses();
+        assertTrue(issued <= 400, "issued " + issued);
+        assertTrue(issued > 100, "issued " + issued);
+    }
+
+    private LoadTestConfig config(long rate) {
+        return LoadTestConfig.builder()
+                .cacheSupplier(() -> CacheFactory.getDefaultCache(100))
+                .keyGeneratorSupplier(() -> new HotspotKeyGenerator(1000, 0.1, 0.9))
+                .readerThreads(1)
+                .writerThreads(1)
+                .warmup(Duration.ZERO)
+                .duration(Duration.ofMillis(200))
+                .targetOpsPerSecondPerThread(rate)
+                .build();
+    }
+}
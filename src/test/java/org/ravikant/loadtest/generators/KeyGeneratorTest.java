@@ -0,0 +1,52 @@
+package org.ravikant.loadtest.generators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyGeneratorTest {
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void testZipfianFavoursLowKeys() {
+        KeyGenerator generator = new ZipfianKeyGenerator(1000);
+        long[] counts = sample(generator, 1000);
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        assertTrue(counts[10] > counts[500]);
+    }
+
+    @Test
+    void testHotspotSendsMostAccessesToHotSet() {
+        KeyGenerator generator = new HotspotKeyGenerator(1000, 0.2, 0.8);
+        long[] counts = sample(generator, 1000);
+        long hotAccesses = 0;
+        for (int key = 0; key < 200; key++) {
+            hotAccesses += counts[key];
+        }
+        assertEquals(0.8, (double) hotAccesses / SAMPLES, 0.02);
+    }
+
+    @Test
+    void testScanWrapsAround() {
+        KeyGenerator generator = new ScanKeyGenerator(3, 1);
+        Random random = new Random(42);
+        assertEquals(1, generator.nextKey(random));
+        assertEquals(2, generator.nextKey(random));
+        assertEquals(0, generator.nextKey(random));
+        assertEquals(1, generator.nextKey(random));
+    }
+
+    private long[] sample(KeyGenerator generator, int keySpace) {
+        Random random = new Random(42);
+        long[] counts = new long[keySpace];
+        for (int i = 0; i < SAMPLES; i++) {
+            long key = generator.nextKey(random);
+            assertTrue(key >= 0 && key < keySpace, "key out of range: " + key);
+            counts[(int) key]++;
+        }
+        return counts;
+    }
+}